@@ -0,0 +1,125 @@
+package org.edu.university.converter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.CompletionHandler;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * AsyncFiles - Whole-file reads and writes on AsynchronousFileChannel.
+ *
+ * Each chunk is issued with a CompletionHandler that schedules the next one, so the caller
+ * never waits. The channels are opened on an executor owned by the caller: on Linux and macOS
+ * the JDK implements file channels by running blocking reads/writes on that executor, so its
+ * size bounds the number of threads busy with disk I/O (without one, the JDK would use its
+ * shared, unbounded default pool). Meant for the small and medium files of GUI/service jobs;
+ * large inputs should go through the streaming JsonReader path instead.
+ */
+final class AsyncFiles {
+
+    private static final int CHUNK_SIZE = 64 * 1024;
+
+    private AsyncFiles() { }
+
+    /** Reads the whole file, performing the I/O on ioExecutor */
+    static CompletableFuture<byte[]> readAll(Path path, ExecutorService ioExecutor) {
+        CompletableFuture<byte[]> result = new CompletableFuture<>();
+        AsynchronousFileChannel channel;
+        try {
+            channel = AsynchronousFileChannel.open(path, Set.of(StandardOpenOption.READ), ioExecutor);
+        } catch (IOException e) {
+            result.completeExceptionally(e);
+            return result;
+        }
+
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        ByteBuffer buffer = ByteBuffer.allocate(CHUNK_SIZE);
+        channel.read(buffer, 0, 0L, new CompletionHandler<Integer, Long>() {
+            @Override
+            public void completed(Integer read, Long position) {
+                if (read < 0) {
+                    closeQuietly(channel);
+                    result.complete(content.toByteArray());
+                    return;
+                }
+                buffer.flip();
+                content.write(buffer.array(), 0, buffer.limit());
+                buffer.clear();
+                long next = position + read;
+                channel.read(buffer, next, next, this);
+            }
+
+            @Override
+            public void failed(Throwable exc, Long position) {
+                closeQuietly(channel);
+                result.completeExceptionally(exc);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Writes a new file, creating parent directories as needed, performing the I/O on ioExecutor.
+     * Fails like CsvWriter2 if the file already exists.
+     */
+    static CompletableFuture<Void> writeNew(Path path, byte[] content, ExecutorService ioExecutor) {
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        AsynchronousFileChannel channel;
+        try {
+            Path parent = path.getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            channel = AsynchronousFileChannel.open(path,
+                    Set.of(StandardOpenOption.WRITE, StandardOpenOption.CREATE_NEW), ioExecutor);
+        } catch (FileAlreadyExistsException e) {
+            result.completeExceptionally(new IOException("❌ File already exists: " + path +
+                    ". Please choose another name or delete it manually."));
+            return result;
+        } catch (IOException e) {
+            result.completeExceptionally(e);
+            return result;
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(content);
+        channel.write(buffer, 0, 0L, new CompletionHandler<Integer, Long>() {
+            @Override
+            public void completed(Integer written, Long position) {
+                if (!buffer.hasRemaining()) {
+                    try {
+                        channel.close();
+                        result.complete(null);
+                    } catch (IOException e) {
+                        result.completeExceptionally(e);
+                    }
+                    return;
+                }
+                long next = position + written;
+                channel.write(buffer, next, next, this);
+            }
+
+            @Override
+            public void failed(Throwable exc, Long position) {
+                closeQuietly(channel);
+                result.completeExceptionally(exc);
+            }
+        });
+        return result;
+    }
+
+    private static void closeQuietly(AsynchronousFileChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+            // already failing or finished; nothing more to report
+        }
+    }
+}
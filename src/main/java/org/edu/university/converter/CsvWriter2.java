@@ -4,6 +4,7 @@ import com.opencsv.CSVWriter;
 
 import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.StringWriter;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.*;
 import java.util.*;
@@ -27,6 +28,36 @@ public class CsvWriter2 {
             throw new IllegalArgumentException("❌ No data available to write into CSV.");
         }
 
+        try (CSVWriter writer = open(outputPath, delimiter)) {
+            writeRows(writer, rows);
+        }
+    }
+
+    /**
+     * Renders the CSV in memory as UTF-8 bytes, for callers that write the file themselves
+     * (e.g. with asynchronous I/O).
+     *
+     * @param rows      List of flattened rows (each row is a Map of key-value pairs)
+     * @param delimiter Delimiter character (e.g., ',', ';', or '\t')
+     */
+    public byte[] toCsvBytes(List<Map<String, String>> rows, char delimiter) throws IOException {
+        if (rows == null || rows.isEmpty()) {
+            throw new IllegalArgumentException("❌ No data available to write into CSV.");
+        }
+
+        StringWriter out = new StringWriter();
+        try (CSVWriter writer = new CSVWriter(out,
+                delimiter,
+                CSVWriter.DEFAULT_QUOTE_CHARACTER,
+                CSVWriter.DEFAULT_ESCAPE_CHARACTER,
+                CSVWriter.DEFAULT_LINE_END)) {
+            writeRows(writer, rows);
+        }
+        return out.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /** Writes the header (union of all keys, insertion order) and then every row */
+    private void writeRows(CSVWriter writer, List<Map<String, String>> rows) {
         // Collect headers: union of all keys (preserve insertion order)
         LinkedHashSet<String> headers = new LinkedHashSet<>();
         for (Map<String, String> row : rows) {
@@ -34,6 +65,20 @@ public class CsvWriter2 {
         }
         String[] headerArr = headers.toArray(new String[0]);
 
+        // Write headers first
+        writer.writeNext(headerArr);
+
+        // Write each row
+        for (Map<String, String> row : rows) {
+            writer.writeNext(toValues(row, headerArr));
+        }
+    }
+
+    /**
+     * Opens a CSV writer on a new file, creating parent directories as needed.
+     * Fails if the file already exists.
+     */
+    static CSVWriter open(String outputPath, char delimiter) throws IOException {
         Path out = Paths.get(outputPath);
         Path parent = out.getParent();
         if (parent != null) {
@@ -41,29 +86,26 @@ public class CsvWriter2 {
         }
 
         // Create file exclusively (error if file already exists)
-        try (BufferedWriter bufferedWriter = Files.newBufferedWriter(out, StandardCharsets.UTF_8,
-                StandardOpenOption.CREATE_NEW);
-             CSVWriter writer = new CSVWriter(bufferedWriter,
-                     delimiter,
-                     CSVWriter.DEFAULT_QUOTE_CHARACTER,
-                     CSVWriter.DEFAULT_ESCAPE_CHARACTER,
-                     CSVWriter.DEFAULT_LINE_END)) {
-
-            // Write headers first
-            writer.writeNext(headerArr);
-
-            // Write each row
-            for (Map<String, String> row : rows) {
-                String[] values = new String[headerArr.length];
-                for (int i = 0; i < headerArr.length; i++) {
-                    values[i] = row.getOrDefault(headerArr[i], "");
-                }
-                writer.writeNext(values);
-            }
-
+        try {
+            BufferedWriter bufferedWriter = Files.newBufferedWriter(out, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE_NEW);
+            return new CSVWriter(bufferedWriter,
+                    delimiter,
+                    CSVWriter.DEFAULT_QUOTE_CHARACTER,
+                    CSVWriter.DEFAULT_ESCAPE_CHARACTER,
+                    CSVWriter.DEFAULT_LINE_END);
         } catch (FileAlreadyExistsException e) {
             throw new IOException("❌ File already exists: " + outputPath +
                     ". Please choose another name or delete it manually.");
         }
     }
+
+    /** Projects a row onto the header order, using "" for missing columns */
+    static String[] toValues(Map<String, String> row, String[] headerArr) {
+        String[] values = new String[headerArr.length];
+        for (int i = 0; i < headerArr.length; i++) {
+            values[i] = row.getOrDefault(headerArr[i], "");
+        }
+        return values;
+    }
 }
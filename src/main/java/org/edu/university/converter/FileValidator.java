@@ -2,7 +2,6 @@ package org.edu.university.converter;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 
 import java.io.File;
 import java.io.IOException;
@@ -19,8 +18,6 @@ import java.nio.file.Path;
  */
 public class FileValidator {
 
-    private static final ObjectMapper MAPPER = new ObjectMapper();
-
     /** Quick legacy check: file exists, is file, and ends with .json */
     public static boolean isValidJsonFile(String path) {
         if (path == null || path.isBlank()) return false;
@@ -65,7 +62,7 @@ public class FileValidator {
         }
 
         try {
-            JsonNode root = MAPPER.readTree(file);
+            JsonNode root = JsonMappers.get().readTree(file);
             if (!(root.isObject() || root.isArray())) {
                 System.err.println("Validation error: JSON root must be object or array -> " + path);
                 return false;
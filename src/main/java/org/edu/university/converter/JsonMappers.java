@@ -0,0 +1,24 @@
+package org.edu.university.converter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * JsonMappers - Single shared, lazily created ObjectMapper.
+ *
+ * ObjectMapper is thread-safe once configured and expensive to build (it pulls in most of
+ * Jackson's classes), so it is created only on first use and reused everywhere.
+ * Callers that only need quick checks (e.g. FileValidator.isValidJsonFile) never load Jackson.
+ */
+final class JsonMappers {
+
+    private JsonMappers() { }
+
+    /** Initialization-on-demand holder: the mapper is built on the first call to get() */
+    private static final class Holder {
+        static final ObjectMapper MAPPER = new ObjectMapper();
+    }
+
+    static ObjectMapper get() {
+        return Holder.MAPPER;
+    }
+}
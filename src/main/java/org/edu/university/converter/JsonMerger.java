@@ -0,0 +1,176 @@
+package org.edu.university.converter;
+
+import com.opencsv.CSVWriter;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * JsonMerger - Merges many JSON files into a single CSV with a unified header.
+ *
+ * Works in two passes so memory stays bounded regardless of input size:
+ * 1. Header pass: every input is scanned concurrently and only its column names are kept.
+ * 2. Write pass: inputs are streamed concurrently into small bounded queues and the rows are
+ *    written in input-file order, projected onto the unified header.
+ *
+ * Columns are unified the same way CsvWriter2 does within one file: union of all keys,
+ * in first-seen order (file by file, record by record).
+ */
+public class JsonMerger {
+
+    /** Default number of flattened rows buffered per input during the write pass */
+    public static final int DEFAULT_QUEUE_CAPACITY = 256;
+
+    /** Marks the end of an input's queue (compared by identity) */
+    private static final Map<String, String> END = Collections.unmodifiableMap(new HashMap<>());
+
+    private final int threads;
+    private final int queueCapacity;
+    private final RecordSchema schema;
+
+    public JsonMerger() {
+        this(Runtime.getRuntime().availableProcessors(), DEFAULT_QUEUE_CAPACITY);
+    }
+
+    public JsonMerger(int threads, int queueCapacity) {
+        this(threads, queueCapacity, null);
+    }
+
+    /** @param schema schema for fixed-shape records, or null to always use the generic path */
+    public JsonMerger(int threads, int queueCapacity, RecordSchema schema) {
+        if (threads < 1) throw new IllegalArgumentException("threads must be >= 1");
+        if (queueCapacity < 1) throw new IllegalArgumentException("queueCapacity must be >= 1");
+        this.threads = threads;
+        this.queueCapacity = queueCapacity;
+        this.schema = schema;
+    }
+
+    /**
+     * Merges the given JSON files into one CSV file.
+     *
+     * @param inputPaths   JSON files, merged in the given order
+     * @param outputPath   Path of the output CSV file (must not exist)
+     * @param delimiter    Delimiter character (e.g., ',', ';', or '\t')
+     * @param sourceColumn Name of an extra first column holding the source file name, or null for none;
+     *                     must not match any column of the inputs
+     * @return number of rows written
+     * @throws IOException if reading any input or writing the output fails
+     * @throws IllegalArgumentException if sourceColumn collides with an input column
+     */
+    public int merge(List<String> inputPaths, String outputPath, char delimiter, String sourceColumn)
+            throws IOException {
+        if (inputPaths == null || inputPaths.isEmpty()) {
+            throw new IllegalArgumentException("❌ No input files to merge.");
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(Math.min(threads, inputPaths.size()));
+        try {
+            String[] headerArr = collectHeaders(pool, inputPaths, sourceColumn);
+            return writeRows(pool, inputPaths, outputPath, delimiter, sourceColumn, headerArr);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /** Header pass: scans inputs concurrently and unions their keys in input order */
+    private String[] collectHeaders(ExecutorService pool, List<String> inputPaths, String sourceColumn)
+            throws IOException {
+        List<Future<LinkedHashSet<String>>> futures = new ArrayList<>();
+        for (String inputPath : inputPaths) {
+            futures.add(pool.submit(() -> {
+                LinkedHashSet<String> keys = new LinkedHashSet<>();
+                new JsonReader(schema).forEachFlattened(inputPath, row -> keys.addAll(row.keySet()));
+                return keys;
+            }));
+        }
+
+        LinkedHashSet<String> headers = new LinkedHashSet<>();
+        if (sourceColumn != null) headers.add(sourceColumn);
+        for (int i = 0; i < futures.size(); i++) {
+            LinkedHashSet<String> keys = await(futures.get(i));
+            // The source column would silently overwrite a data column of the same name
+            if (sourceColumn != null && keys.contains(sourceColumn)) {
+                throw new IllegalArgumentException("❌ Source column \"" + sourceColumn
+                        + "\" collides with a column in " + inputPaths.get(i)
+                        + ". Choose another --source-column name.");
+            }
+            headers.addAll(keys);
+        }
+        if (headers.isEmpty()) {
+            throw new IllegalArgumentException("❌ No data available to write into CSV.");
+        }
+        return headers.toArray(new String[0]);
+    }
+
+    /** Write pass: producers fill one bounded queue per input, the caller drains them in order */
+    private int writeRows(ExecutorService pool, List<String> inputPaths, String outputPath, char delimiter,
+                          String sourceColumn, String[] headerArr) throws IOException {
+        // Tasks are submitted in input order, so the input being drained always has a running producer
+        List<BlockingQueue<Map<String, String>>> queues = new ArrayList<>();
+        List<Future<Integer>> futures = new ArrayList<>();
+        for (String inputPath : inputPaths) {
+            BlockingQueue<Map<String, String>> queue = new ArrayBlockingQueue<>(queueCapacity);
+            queues.add(queue);
+            futures.add(pool.submit(() -> produce(inputPath, queue)));
+        }
+
+        int total = 0;
+        try (CSVWriter writer = CsvWriter2.open(outputPath, delimiter)) {
+            writer.writeNext(headerArr);
+            for (int i = 0; i < inputPaths.size(); i++) {
+                String sourceName = Path.of(inputPaths.get(i)).getFileName().toString();
+                BlockingQueue<Map<String, String>> queue = queues.get(i);
+                while (true) {
+                    Map<String, String> row = queue.take();
+                    if (row == END) break;
+                    if (sourceColumn != null) row.put(sourceColumn, sourceName);
+                    writer.writeNext(CsvWriter2.toValues(row, headerArr));
+                    total++;
+                }
+                // Surface a read failure of this input, if any
+                await(futures.get(i));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Merge interrupted", e);
+        }
+        return total;
+    }
+
+    /** Streams one input into its queue, always terminating it with END */
+    private int produce(String inputPath, BlockingQueue<Map<String, String>> queue) throws Exception {
+        try {
+            return new JsonReader(schema).forEachFlattened(inputPath, row -> {
+                try {
+                    queue.put(row);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new CancellationException("Merge canceled");
+                }
+            });
+        } finally {
+            // Never blocks forever: the consumer is draining this queue or the pool is shutting down
+            try {
+                queue.put(END);
+            } catch (InterruptedException ignored) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static <T> T await(Future<T> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Merge interrupted", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException io) throw io;
+            if (cause instanceof RuntimeException re) throw re;
+            throw new IOException(cause.getMessage(), cause);
+        }
+    }
+}
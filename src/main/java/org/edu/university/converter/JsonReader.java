@@ -1,12 +1,20 @@
 package org.edu.university.converter;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
 import java.util.*;
+import java.util.function.Consumer;
 
 /**
  * JsonReader - Reads JSON files and flattens records into key-value maps.
@@ -14,16 +22,40 @@ import java.util.*;
  * Example:
  * { "user": { "name": "Alice" } }
  * → { "user.name": "Alice" }
+ *
+ * When constructed with a RecordSchema, records are bound straight into the schema's
+ * column slots; records that do not fit go through the generic tree-based flattening.
  */
 public class JsonReader {
 
-    private final ObjectMapper mapper = new ObjectMapper();
+    private final ObjectMapper mapper = JsonMappers.get();
+    private final RecordSchema schema;
+
+    /** Re-opens the input at a record's byte offset, for the schema fallback path */
+    private interface RecordSource {
+        JsonParser openAt(long byteOffset) throws IOException;
+    }
+
+    public JsonReader() {
+        this(null);
+    }
+
+    /** @param schema schema for fixed-shape records, or null to always use the generic path */
+    public JsonReader(RecordSchema schema) {
+        this.schema = schema;
+    }
 
     /** Reads and flattens JSON records */
     public List<Map<String, String>> readAndFlatten(String inputPath) throws IOException {
         File file = new File(inputPath);
         if (!file.exists()) throw new IOException("File not found: " + inputPath);
 
+        if (schema != null) {
+            List<Map<String, String>> result = new ArrayList<>();
+            forEachFlattened(inputPath, result::add);
+            return result;
+        }
+
         JsonNode root = mapper.readTree(file);
 
         List<JsonNode> records = new ArrayList<>();
@@ -33,30 +65,118 @@ public class JsonReader {
 
         List<Map<String, String>> result = new ArrayList<>();
         for (JsonNode record : records) {
-            Map<String, String> flat = new LinkedHashMap<>();
-            flattenNode("", record, flat);
-            result.add(flat);
+            result.add(flatten(record));
         }
         return result;
     }
 
-    /** Recursive flattening: nested keys → dot notation */
-    private void flattenNode(String prefix, JsonNode node, Map<String, String> out) throws JsonProcessingException {
-        if (node.isObject()) {
-            node.fields().forEachRemaining(e -> {
-                String key = prefix.isEmpty() ? e.getKey() : prefix + "." + e.getKey();
-                try {
-                    flattenNode(key, e.getValue(), out);
-                } catch (JsonProcessingException ex) {
-                    throw new RuntimeException(ex);
-                }
-            });
-        } else if (node.isArray()) {
-            out.put(prefix, mapper.writeValueAsString(node));
-        } else if (node.isNull()) {
-            out.put(prefix, "");
+    /** Reads and flattens JSON records from content already in memory (e.g. read asynchronously) */
+    public List<Map<String, String>> readAndFlatten(byte[] content) throws IOException {
+        List<Map<String, String>> result = new ArrayList<>();
+        RecordSource source = offset -> mapper.getFactory()
+                .createParser(content, (int) offset, content.length - (int) offset);
+        try (JsonParser parser = mapper.getFactory().createParser(content)) {
+            forEachFlattened(parser, source, result::add);
+        }
+        return result;
+    }
+
+    /**
+     * Streams records one at a time instead of building the whole tree,
+     * so only the current record is held in memory.
+     */
+    public int forEachFlattened(String inputPath, Consumer<Map<String, String>> consumer) throws IOException {
+        File file = new File(inputPath);
+        if (!file.exists()) throw new IOException("File not found: " + inputPath);
+
+        RecordSource source = offset -> {
+            FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+            channel.position(offset);
+            // The parser closes the stream, and with it the channel
+            InputStream in = Channels.newInputStream(channel);
+            return mapper.getFactory().createParser(in);
+        };
+        try (JsonParser parser = mapper.getFactory().createParser(file)) {
+            return forEachFlattened(parser, source, consumer);
+        }
+    }
+
+    private int forEachFlattened(JsonParser parser, RecordSource source, Consumer<Map<String, String>> consumer)
+            throws IOException {
+        int count = 0;
+        JsonToken first = parser.nextToken();
+        if (first == JsonToken.START_ARRAY) {
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                consumer.accept(readRecord(parser, source));
+                count++;
+            }
+        } else if (first == JsonToken.START_OBJECT) {
+            consumer.accept(readRecord(parser, source));
+            count++;
         } else {
-            out.put(prefix, node.asText());
+            throw new IOException("Invalid format: root must be object or array.");
+        }
+        return count;
+    }
+
+    /** Reads and flattens the record the parser is positioned on */
+    private Map<String, String> readRecord(JsonParser parser, RecordSource source) throws IOException {
+        if (schema == null) return flatten(mapper.readTree(parser));
+
+        long start = parser.currentTokenLocation().getByteOffset();
+        // Jackson only tracks byte offsets for UTF-8 input; without one the record could not be
+        // re-read on a mismatch, so read it generically up front
+        if (start < 0) return flatten(mapper.readTree(parser));
+
+        // Context the parser returns to once the record is fully consumed
+        JsonStreamContext parent = parser.currentToken().isStructStart()
+                ? parser.getParsingContext().getParent() : parser.getParsingContext();
+        Map<String, String> flat = schema.bind(parser, mapper);
+        if (flat != null) return flat;
+
+        // Mismatch: skip the rest of this record, then re-read just this record generically
+        while (parser.getParsingContext() != parent) {
+            if (parser.nextToken() == null) throw new IOException("Unexpected end of input in record");
+        }
+        try (JsonParser replay = source.openAt(start)) {
+            replay.nextToken();
+            return flatten(mapper.readTree(replay));
+        }
+    }
+
+    /** Flattens a single record into a key-value map */
+    private Map<String, String> flatten(JsonNode record) throws JsonProcessingException {
+        Map<String, String> flat = new LinkedHashMap<>();
+        flattenNode("", record, flat);
+        return flat;
+    }
+
+    /**
+     * Flattening: nested keys → dot notation.
+     * Walks the tree with an explicit stack (depth-first, fields in document order), so deeply
+     * nested documents cannot overflow the thread stack.
+     */
+    private void flattenNode(String prefix, JsonNode node, Map<String, String> out) throws JsonProcessingException {
+        Deque<Map.Entry<String, JsonNode>> pending = new ArrayDeque<>();
+        pending.push(Map.entry(prefix, node));
+        List<Map.Entry<String, JsonNode>> children = new ArrayList<>();
+        while (!pending.isEmpty()) {
+            Map.Entry<String, JsonNode> current = pending.pop();
+            String path = current.getKey();
+            JsonNode value = current.getValue();
+            if (value.isObject()) {
+                children.clear();
+                value.fields().forEachRemaining(e -> children.add(
+                        Map.entry(path.isEmpty() ? e.getKey() : path + "." + e.getKey(), e.getValue())));
+                // Push in reverse so the first field is visited first
+                for (int i = children.size() - 1; i >= 0; i--) pending.push(children.get(i));
+            } else if (value.isArray()) {
+                out.put(path, mapper.writeValueAsString(value));
+            } else if (value.isNull()) {
+                out.put(path, "");
+            } else {
+                out.put(path, value.asText());
+            }
         }
     }
 }
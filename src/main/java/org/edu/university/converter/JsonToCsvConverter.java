@@ -1,8 +1,16 @@
 package org.edu.university.converter;
 
+import com.opencsv.CSVWriter;
+
 import java.io.IOException;
-import java.util.List;
-import java.util.Map;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Consumer;
 
 /**
  * JsonToCsvConverter - Orchestrates the conversion from JSON to CSV.
@@ -11,20 +19,173 @@ public class JsonToCsvConverter {
 
     private final JsonReader jsonReader;
     private final CsvWriter2 csvWriter;
+    private final RecordSchema schema;
 
     public JsonToCsvConverter() {
-        this.jsonReader = new JsonReader();
+        this(null);
+    }
+
+    /**
+     * @param schema schema for fixed-shape records (see RecordSchema), or null to always
+     *               use the generic flattening
+     */
+    public JsonToCsvConverter(RecordSchema schema) {
+        this.jsonReader = new JsonReader(schema);
         this.csvWriter = new CsvWriter2();
+        this.schema = schema;
     }
 
     /**
      * Converts JSON file into CSV file with a specified delimiter.
      *
+     * Streams the input twice (columns first, then rows) so memory does not grow with the
+     * number of records. Output is the same as CsvWriter2.writeCsv on all rows.
+     *
      * @return number of rows processed
      */
     public int convert(String inputPath, String outputPath, char delimiter) throws IOException {
-        List<Map<String, String>> data = jsonReader.readAndFlatten(inputPath);
-        csvWriter.writeCsv(outputPath, data, delimiter);
-        return data.size();
+        // Collect headers: union of all keys (preserve insertion order)
+        LinkedHashSet<String> headers = new LinkedHashSet<>();
+        int records = jsonReader.forEachFlattened(inputPath, row -> headers.addAll(row.keySet()));
+        if (records == 0) {
+            throw new IllegalArgumentException("❌ No data available to write into CSV.");
+        }
+        String[] headerArr = headers.toArray(new String[0]);
+
+        try (CSVWriter writer = CsvWriter2.open(outputPath, delimiter)) {
+            writer.writeNext(headerArr);
+            return jsonReader.forEachFlattened(inputPath,
+                    row -> writer.writeNext(CsvWriter2.toValues(row, headerArr)));
+        }
+    }
+
+    /**
+     * Converts JSON file into CSV file without blocking the calling thread.
+     *
+     * The input is read and the output written with AsynchronousFileChannel on ioExecutor;
+     * parsing and CSV rendering run on executor. The calling thread never blocks, but file I/O
+     * does occupy ioExecutor threads while it runs (see AsyncFiles), so its size bounds how many
+     * jobs touch the disk at once. The whole file and its CSV are held in memory, so this suits
+     * many small/medium jobs (GUI queue, services); use convert/convertSorted for large inputs.
+     *
+     * @param executor   executor for the CPU-bound parse/render step
+     * @param ioExecutor executor that performs the file reads and writes
+     * @param onStage  receives "Reading", "Converting" and "Writing" as the job advances (may be null)
+     * @return future completing with the number of rows processed
+     */
+    public CompletableFuture<Integer> convertAsync(String inputPath, String outputPath, char delimiter,
+                                                   Executor executor, ExecutorService ioExecutor,
+                                                   Consumer<String> onStage) {
+        Consumer<String> stage = onStage != null ? onStage : s -> { };
+        stage.accept("Reading");
+        return AsyncFiles.readAll(Path.of(inputPath), ioExecutor)
+                .thenComposeAsync(content -> {
+                    stage.accept("Converting");
+                    List<Map<String, String>> data;
+                    byte[] csv;
+                    try {
+                        data = jsonReader.readAndFlatten(content);
+                        csv = csvWriter.toCsvBytes(data, delimiter);
+                    } catch (IOException e) {
+                        throw new CompletionException(e);
+                    }
+                    stage.accept("Writing");
+                    return AsyncFiles.writeNew(Path.of(outputPath), csv, ioExecutor).thenApply(done -> data.size());
+                }, executor);
+    }
+
+    /**
+     * Converts JSON into CSV with rows deduplicated and/or sorted, using an external merge sort
+     * so inputs larger than the memory budget can be processed.
+     *
+     * Deduplication keeps the first row (in input order) for each value of the dedupe column,
+     * compared as exact text ("7" and "007" are different); rows where that column is missing
+     * or empty are always kept. Without a sort column, rows keep input order.
+     * Columns are ordered as in a plain conversion: by first appearance in the input.
+     *
+     * @param sortBy            column to sort by (numeric when values are numbers), or null
+     * @param dedupeOn          column to deduplicate on, or null
+     * @param memoryBudgetBytes approximate heap used for buffering rows before spilling to disk
+     * @return number of rows written
+     */
+    public int convertSorted(String inputPath, String outputPath, char delimiter, String sortBy, String dedupeOn,
+                             long memoryBudgetBytes) throws IOException {
+        int threads = Runtime.getRuntime().availableProcessors();
+        // Both sorters may hold buffered rows at the same time when deduplicating
+        long budget = dedupeOn == null ? memoryBudgetBytes : Math.max(1, memoryBudgetBytes / 2);
+
+        // Column -> {seq, position} of its first appearance among the rows that are written
+        Map<String, long[]> firstSeen = new HashMap<>();
+        try (RowSorter output = new RowSorter(sortBy, budget, threads)) {
+            if (dedupeOn == null) {
+                long[] seq = {0};
+                jsonReader.forEachFlattened(inputPath, row -> add(output, seq[0]++, row, firstSeen));
+            } else {
+                // Group identical values together, keep the first of each group, then order the survivors
+                try (RowSorter grouping = RowSorter.grouping(dedupeOn, budget, threads)) {
+                    long[] seq = {0};
+                    jsonReader.forEachFlattened(inputPath, row -> add(grouping, seq[0]++, row, null));
+                    try (RowSorter.RowIterator it = grouping.sorted()) {
+                        RowSorter.Row previous = null;
+                        for (RowSorter.Row row = it.next(); row != null; row = it.next()) {
+                            if (previous == null || !RowSorter.sameKey(previous, row)) {
+                                add(output, row.seq(), row.values(), firstSeen);
+                            }
+                            previous = row;
+                        }
+                    }
+                }
+            }
+            if (firstSeen.isEmpty()) {
+                throw new IllegalArgumentException("❌ No data available to write into CSV.");
+            }
+
+            List<String> headers = new ArrayList<>(firstSeen.keySet());
+            headers.sort(Comparator.<String>comparingLong(k -> firstSeen.get(k)[0])
+                    .thenComparingLong(k -> firstSeen.get(k)[1]));
+            String[] headerArr = headers.toArray(new String[0]);
+
+            int rows = 0;
+            try (RowSorter.RowIterator it = output.sorted();
+                 CSVWriter writer = CsvWriter2.open(outputPath, delimiter)) {
+                writer.writeNext(headerArr);
+                for (RowSorter.Row row = it.next(); row != null; row = it.next()) {
+                    writer.writeNext(CsvWriter2.toValues(row.values(), headerArr));
+                    rows++;
+                }
+            }
+            return rows;
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /** Adds a row to a sorter, recording where its columns first appear if firstSeen is given */
+    private static void add(RowSorter sorter, long seq, Map<String, String> row, Map<String, long[]> firstSeen) {
+        if (firstSeen != null) {
+            int position = 0;
+            for (String key : row.keySet()) {
+                long[] seen = firstSeen.get(key);
+                if (seen == null || seq < seen[0]) firstSeen.put(key, new long[]{seq, position});
+                position++;
+            }
+        }
+        try {
+            sorter.add(seq, row);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Merges several JSON files into one CSV file with a unified header.
+     *
+     * @param sourceColumn name of an extra column holding each row's source file, or null for none
+     * @return number of rows processed
+     */
+    public int merge(List<String> inputPaths, String outputPath, char delimiter, String sourceColumn) throws IOException {
+        JsonMerger merger = new JsonMerger(Runtime.getRuntime().availableProcessors(),
+                JsonMerger.DEFAULT_QUEUE_CAPACITY, schema);
+        return merger.merge(inputPaths, outputPath, delimiter, sourceColumn);
     }
 }
@@ -7,6 +7,12 @@ import java.awt.event.ActionEvent;
 import java.io.File;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * JsonToCsvGui - Simple and practical Swing UI for the JSON -> CSV converter.
@@ -16,8 +22,9 @@ import java.nio.file.Path;
  * - Browse/select output CSV
  * - Delimiter input
  * - Overwrite output (deletes output before conversion if checked)
- * - Run conversion in background using SwingWorker
- * - Log area and progress indicator
+ * - Job queue: each Convert click queues a job; several jobs run concurrently on a
+ *   fixed executor, with their file I/O on a small separate executor
+ * - One status/progress row per job, plus a shared log area
  */
 public class JsonToCsvGui extends JFrame {
 
@@ -29,7 +36,26 @@ public class JsonToCsvGui extends JFrame {
     private final JCheckBox overwriteCheck = new JCheckBox("Overwrite if exists");
     private final JButton convertBtn = new JButton("Convert");
     private final JTextArea logArea = new JTextArea(10, 60);
-    private final JProgressBar progressBar = new JProgressBar();
+    private final JPanel jobsPanel = new JPanel();
+
+    /** Runs the CPU-bound part of the jobs (parsing and CSV rendering) */
+    private final ExecutorService jobExecutor = Executors.newFixedThreadPool(
+            Math.max(2, Runtime.getRuntime().availableProcessors()), r -> {
+                Thread t = new Thread(r, "json-csv-job");
+                t.setDaemon(true);
+                return t;
+            });
+
+    /** Performs the jobs' file reads and writes; its size caps the threads blocked on disk */
+    private final ExecutorService ioExecutor = Executors.newFixedThreadPool(2, r -> {
+        Thread t = new Thread(r, "json-csv-io");
+        t.setDaemon(true);
+        return t;
+    });
+
+    /** Outputs of queued/running jobs, so two jobs never write the same file (EDT only) */
+    private final Set<Path> activeOutputs = new HashSet<>();
+    private int jobCounter;
 
     public JsonToCsvGui() {
         super("JSON → CSV Converter (GUI)");
@@ -75,17 +101,21 @@ public class JsonToCsvGui extends JFrame {
         small.add(overwriteCheck);
         form.add(small, c);
 
-        // Convert button and progress bar
+        // Convert button (queues a job)
         c.gridx = 0; c.gridy = 3; c.gridwidth = 3;
         c.fill = GridBagConstraints.HORIZONTAL;
-        JPanel bottom = new JPanel(new BorderLayout(6, 6));
         JPanel btnPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT));
         btnPanel.add(convertBtn);
-        bottom.add(btnPanel, BorderLayout.EAST);
-        progressBar.setStringPainted(true);
-        progressBar.setVisible(false);
-        bottom.add(progressBar, BorderLayout.CENTER);
-        form.add(bottom, c);
+        form.add(btnPanel, c);
+
+        // Jobs list: one row per queued conversion
+        jobsPanel.setLayout(new BoxLayout(jobsPanel, BoxLayout.Y_AXIS));
+        JPanel jobsHolder = new JPanel(new BorderLayout());
+        jobsHolder.add(jobsPanel, BorderLayout.NORTH);
+        JScrollPane jobsScroll = new JScrollPane(jobsHolder, JScrollPane.VERTICAL_SCROLLBAR_AS_NEEDED,
+                JScrollPane.HORIZONTAL_SCROLLBAR_NEVER);
+        jobsScroll.setBorder(BorderFactory.createTitledBorder("Jobs"));
+        jobsScroll.setPreferredSize(new Dimension(600, 150));
 
         // Log area
         logArea.setEditable(false);
@@ -93,7 +123,7 @@ public class JsonToCsvGui extends JFrame {
                 JScrollPane.HORIZONTAL_SCROLLBAR_AS_NEEDED);
 
         main.add(form, BorderLayout.NORTH);
-        main.add(scroll, BorderLayout.CENTER);
+        main.add(new JSplitPane(JSplitPane.VERTICAL_SPLIT, jobsScroll, scroll), BorderLayout.CENTER);
 
         getContentPane().add(main);
 
@@ -171,7 +201,12 @@ public class JsonToCsvGui extends JFrame {
         }
 
         // Check output existence and overwrite behavior
-        Path outPath = Path.of(outputPath);
+        Path outPath = Path.of(outputPath).toAbsolutePath().normalize();
+        if (activeOutputs.contains(outPath)) {
+            JOptionPane.showMessageDialog(this, "Another queued job is already writing to this output file.",
+                    "Output in use", JOptionPane.WARNING_MESSAGE);
+            return;
+        }
         boolean overwrite = overwriteCheck.isSelected();
         if (Files.exists(outPath)) {
             if (!overwrite) {
@@ -182,83 +217,88 @@ public class JsonToCsvGui extends JFrame {
                     appendLog("Conversion canceled by user (output exists).");
                     return;
                 }
+                overwrite = true;
             }
         }
 
-        // Disable UI while running
-        setUiEnabled(false);
-        progressBar.setIndeterminate(true);
-        progressBar.setVisible(true);
-        progressBar.setString("Converting...");
-
-        // Run conversion in background
-        char finalDelimiter = delimiter;
-        SwingWorker<Integer, String> worker = new SwingWorker<>() {
-            @Override
-            protected Integer doInBackground() {
-                try {
-                    // If overwrite selected and file exists -> delete it so CsvWriter2 can create new (it uses CREATE_NEW)
+        submitJob(inputPath, outPath, delimiter, overwrite);
+    }
+
+    /** Queues a conversion job with its own row in the jobs list */
+    private void submitJob(String inputPath, Path outPath, char delimiter, boolean overwrite) {
+        int id = ++jobCounter;
+        String tag = "[Job #" + id + "] ";
+        JobRow row = new JobRow(id, new File(inputPath).getName() + " → " + outPath.getFileName());
+        jobsPanel.add(row);
+        jobsPanel.revalidate();
+        activeOutputs.add(outPath);
+        appendLog(tag + "Queued: " + inputPath + " → " + outPath);
+
+        CompletableFuture
+                .runAsync(() -> {
+                    // CsvWriter2/AsyncFiles create the file with CREATE_NEW, so remove the old one first
                     if (overwrite && Files.exists(outPath)) {
-                        publish("Overwriting enabled: deleting existing file: " + outPath.toAbsolutePath());
-                        Files.delete(outPath);
+                        appendLog(tag + "Overwriting enabled: deleting existing file: " + outPath);
+                        try {
+                            Files.delete(outPath);
+                        } catch (Exception ex) {
+                            throw new CompletionException(ex);
+                        }
                     }
+                }, ioExecutor)
+                .thenCompose(ignored -> new JsonToCsvConverter().convertAsync(inputPath, outPath.toString(),
+                        delimiter, jobExecutor, ioExecutor, stage -> {
+                            appendLog(tag + stage + "...");
+                            SwingUtilities.invokeLater(() -> row.running(stage));
+                        }))
+                .whenComplete((rows, error) -> SwingUtilities.invokeLater(() -> {
+                    activeOutputs.remove(outPath);
+                    if (error == null) {
+                        row.succeeded(rows);
+                        appendLog(tag + "✅ Finished successfully. Rows: " + rows);
+                    } else {
+                        Throwable cause = error instanceof CompletionException && error.getCause() != null
+                                ? error.getCause() : error;
+                        row.failed(cause.getMessage());
+                        appendLog(tag + "ERROR: " + cause.getMessage());
+                        cause.printStackTrace();
+                    }
+                }));
+    }
 
-                    publish("Starting conversion...");
-                    JsonToCsvConverter converter = new JsonToCsvConverter();
-                    int rows = converter.convert(inputPath, outputPath, finalDelimiter);
-                    publish("Conversion completed. Rows processed: " + rows);
-                    return rows;
-                } catch (Exception ex) {
-                    publish("ERROR: " + ex.getMessage());
-                    ex.printStackTrace();
-                    cancel(true);
-                    return null;
-                }
-            }
+    /** Status row of one job: description, progress bar and result */
+    private static final class JobRow extends JPanel {
+        private final JProgressBar bar = new JProgressBar();
 
-            @Override
-            protected void process(java.util.List<String> chunks) {
-                for (String s : chunks) appendLog(s);
-            }
+        JobRow(int id, String description) {
+            super(new BorderLayout(8, 0));
+            setBorder(BorderFactory.createEmptyBorder(2, 6, 2, 6));
+            add(new JLabel("#" + id + "  " + description), BorderLayout.CENTER);
+            bar.setStringPainted(true);
+            bar.setString("Queued");
+            bar.setPreferredSize(new Dimension(180, bar.getPreferredSize().height));
+            add(bar, BorderLayout.EAST);
+            setMaximumSize(new Dimension(Integer.MAX_VALUE, getPreferredSize().height));
+        }
 
-            @Override
-            protected void done() {
-                progressBar.setIndeterminate(false);
-                progressBar.setVisible(false);
-                setUiEnabled(true);
-                try {
-                    if (!isCancelled()) {
-                        Integer rows = get();
-                        appendLog("✅ Finished successfully. Rows: " + rows);
-                        JOptionPane.showMessageDialog(JsonToCsvGui.this,
-                                "Conversion succeeded. Rows processed: " + rows,
-                                "Success", JOptionPane.INFORMATION_MESSAGE);
-                    } else {
-                        appendLog("Conversion failed or canceled. See logs above.");
-                        JOptionPane.showMessageDialog(JsonToCsvGui.this,
-                                "Conversion failed. Check logs for details.",
-                                "Error", JOptionPane.ERROR_MESSAGE);
-                    }
-                } catch (Exception e) {
-                    appendLog("Unexpected error finishing conversion: " + e.getMessage());
-                    JOptionPane.showMessageDialog(JsonToCsvGui.this,
-                            "Unexpected error: " + e.getMessage(),
-                            "Error", JOptionPane.ERROR_MESSAGE);
-                }
-            }
-        };
+        void running(String stage) {
+            bar.setIndeterminate(true);
+            bar.setString(stage + "...");
+        }
 
-        worker.execute();
-    }
+        void succeeded(int rows) {
+            bar.setIndeterminate(false);
+            bar.setValue(bar.getMaximum());
+            bar.setString("Done: " + rows + " rows");
+        }
 
-    private void setUiEnabled(boolean enabled) {
-        inputField.setEnabled(enabled);
-        browseInputBtn.setEnabled(enabled);
-        outputField.setEnabled(enabled);
-        browseOutputBtn.setEnabled(enabled);
-        delimiterField.setEnabled(enabled);
-        overwriteCheck.setEnabled(enabled);
-        convertBtn.setEnabled(enabled);
+        void failed(String message) {
+            bar.setIndeterminate(false);
+            bar.setValue(0);
+            bar.setString("Failed");
+            bar.setToolTipText(message);
+            bar.setForeground(Color.RED);
+        }
     }
 
     private void appendLog(String text) {
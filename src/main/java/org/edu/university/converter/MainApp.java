@@ -1,6 +1,10 @@
 package org.edu.university.converter;
 
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Scanner;
 
@@ -13,6 +17,14 @@ import java.util.Scanner;
  *   --output=<path>     → output CSV file path.
  *   --delimiter=<char>  → CSV delimiter ("," ";" "\t").
  *   --no-prompt         → disables interactive prompts.
+ *   --merge=<paths>     → merges several JSON files (comma-separated list or a directory)
+ *                         into one CSV with a unified header.
+ *   --source-column=<name> → (merge only) adds a column holding each row's source file name.
+ *   --schema=<path>     → sample JSON or JSON Schema describing fixed-shape records; matching
+ *                         records are bound directly to columns, others use the generic path.
+ *   --sort-by=<column>  → sorts rows by a column (numeric when values are numbers).
+ *   --dedupe-on=<column> → keeps only the first row for each value of a column.
+ *   --sort-memory=<MB>  → memory budget for sorting/deduplication before spilling to disk (default 64).
  *
  * - If no arguments are passed, defaults are used, with an option to interactively
  *   provide custom input/output paths.
@@ -25,6 +37,7 @@ public class MainApp {
     private static final String DEFAULT_INPUT = "src/main/resources/sample.json";
     private static final String DEFAULT_OUTPUT = "exports/output.csv";
     private static final char DEFAULT_DELIMITER = ',';
+    private static final long DEFAULT_SORT_MEMORY_MB = 64;
 
     public static void main(String[] args) {
         Map<String, String> options = parseArgs(args);
@@ -35,6 +48,41 @@ public class MainApp {
         String outputPath = options.getOrDefault("output", DEFAULT_OUTPUT);
         char delimiter = options.containsKey("delimiter") ? options.get("delimiter").charAt(0) : DEFAULT_DELIMITER;
 
+        RecordSchema schema = null;
+        if (options.containsKey("schema")) {
+            try {
+                schema = RecordSchema.load(options.get("schema"));
+            } catch (Exception e) {
+                System.err.println("❌ Error loading schema: " + e.getMessage());
+                return;
+            }
+        }
+
+        String sortBy = options.get("sort-by");
+        String dedupeOn = options.get("dedupe-on");
+        long sortMemoryMb = DEFAULT_SORT_MEMORY_MB;
+        if (options.containsKey("sort-memory")) {
+            try {
+                sortMemoryMb = Long.parseLong(options.get("sort-memory"));
+            } catch (NumberFormatException e) {
+                System.err.println("❌ Error: --sort-memory must be a number of megabytes.");
+                return;
+            }
+        }
+
+        if (options.containsKey("merge")) {
+            if (sortBy != null || dedupeOn != null) {
+                System.err.println("❌ Error: --sort-by and --dedupe-on are not supported with --merge.");
+                return;
+            }
+            runMerge(options.get("merge"), outputPath, delimiter, options.get("source-column"), schema);
+            return;
+        }
+        if (options.containsKey("source-column")) {
+            System.err.println("❌ Error: --source-column is only supported with --merge.");
+            return;
+        }
+
         // Interactive prompt only if --no-prompt is not specified and no arguments are provided
         if (!noPrompt && (args.length == 0 || (!options.containsKey("input") && !options.containsKey("pos0")))) {
             System.out.println("⚡ Welcome to the JSON → CSV Converter ⚡");
@@ -66,9 +114,12 @@ public class MainApp {
         }
 
         // Run conversion
-        JsonToCsvConverter converter = new JsonToCsvConverter();
+        JsonToCsvConverter converter = new JsonToCsvConverter(schema);
         try {
-            int rows = converter.convert(inputPath, outputPath, delimiter);
+            int rows = (sortBy != null || dedupeOn != null)
+                    ? converter.convertSorted(inputPath, outputPath, delimiter, sortBy, dedupeOn,
+                            sortMemoryMb * 1024 * 1024)
+                    : converter.convert(inputPath, outputPath, delimiter);
             System.out.println("✅ Conversion complete. Rows processed: " + rows);
             System.out.println("Generated file: " + outputPath);
         } catch (Exception e) {
@@ -77,6 +128,45 @@ public class MainApp {
         }
     }
 
+    /** Merges the JSON files given as a comma-separated list or a directory */
+    private static void runMerge(String spec, String outputPath, char delimiter, String sourceColumn,
+                                 RecordSchema schema) {
+        List<String> inputs = new ArrayList<>();
+        File dir = new File(spec);
+        if (dir.isDirectory()) {
+            File[] files = dir.listFiles((d, name) -> name.toLowerCase().endsWith(".json"));
+            if (files != null) {
+                Arrays.sort(files);
+                for (File f : files) inputs.add(f.getPath());
+            }
+        } else {
+            for (String part : spec.split(",")) {
+                if (!part.isBlank()) inputs.add(part.trim());
+            }
+        }
+
+        if (inputs.isEmpty()) {
+            System.err.println("❌ Error: no JSON files to merge in: " + spec);
+            return;
+        }
+        for (String in : inputs) {
+            if (!FileValidator.isValidJsonFile(in)) {
+                System.err.println("❌ Error: no valid JSON file found at: " + in);
+                return;
+            }
+        }
+
+        JsonToCsvConverter converter = new JsonToCsvConverter(schema);
+        try {
+            int rows = converter.merge(inputs, outputPath, delimiter, sourceColumn);
+            System.out.println("✅ Merge complete. Files: " + inputs.size() + ", rows processed: " + rows);
+            System.out.println("Generated file: " + outputPath);
+        } catch (Exception e) {
+            System.err.println("❌ Error during merge: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+
     /**
      * Simple command-line argument parser.
      * Supports:
@@ -84,6 +174,10 @@ public class MainApp {
      * - --output=...
      * - --delimiter=...
      * - --no-prompt
+     * - --merge=...
+     * - --source-column=...
+     * - --schema=...
+     * - --sort-by=..., --dedupe-on=..., --sort-memory=...
      * - first positional argument as input path
      */
     private static Map<String, String> parseArgs(String[] args) {
@@ -94,6 +188,12 @@ public class MainApp {
             else if (a.startsWith("--output=")) map.put("output", a.substring("--output=".length()));
             else if (a.startsWith("--delimiter=")) map.put("delimiter", a.substring("--delimiter=".length()));
             else if (a.equals("--no-prompt")) map.put("no-prompt", "true");
+            else if (a.startsWith("--merge=")) map.put("merge", a.substring("--merge=".length()));
+            else if (a.startsWith("--source-column=")) map.put("source-column", a.substring("--source-column=".length()));
+            else if (a.startsWith("--schema=")) map.put("schema", a.substring("--schema=".length()));
+            else if (a.startsWith("--sort-by=")) map.put("sort-by", a.substring("--sort-by=".length()));
+            else if (a.startsWith("--dedupe-on=")) map.put("dedupe-on", a.substring("--dedupe-on=".length()));
+            else if (a.startsWith("--sort-memory=")) map.put("sort-memory", a.substring("--sort-memory=".length()));
             else if (i == 0) map.put("pos0", a); // first positional argument as input
         }
         return map;
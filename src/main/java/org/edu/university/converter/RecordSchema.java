@@ -0,0 +1,225 @@
+package org.edu.university.converter;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * RecordSchema - Precompiled binder for fixed-shape JSON records.
+ *
+ * Built once from a sample file or a JSON Schema, it assigns every flattened column
+ * (e.g. "publication.year") a slot index. Records are then bound straight from the
+ * streaming parser into those slots, without building a JsonNode tree.
+ *
+ * Binding produces exactly what JsonReader's generic flattening would. Whenever a record
+ * does not fit (unknown field, object where a value was expected, fields out of schema order,
+ * non-object record), bind() returns null and the caller re-reads that record through the
+ * generic path.
+ *
+ * Instances are immutable and safe to share between threads.
+ */
+public final class RecordSchema {
+
+    /** Schema tree node: either an object with named children or a leaf column slot */
+    private static final class Node {
+        final Map<String, Node> children = new LinkedHashMap<>();
+        int slot = -1;
+        /** For objects: lowest slot in the subtree, or Integer.MAX_VALUE if it has no leaves */
+        int firstSlot = Integer.MAX_VALUE;
+
+        boolean isLeaf() { return slot >= 0; }
+    }
+
+    private final Node root;
+    private final String[] columns;
+
+    private RecordSchema(Node root, List<String> columns) {
+        this.root = root;
+        this.columns = columns.toArray(new String[0]);
+    }
+
+    /**
+     * Loads a schema file, detecting its kind: a JSON Schema (root object with
+     * "type": "object" and "properties") or otherwise a sample of records.
+     */
+    public static RecordSchema load(String path) throws IOException {
+        JsonNode root = readRoot(path);
+        if (isJsonSchema(root)) return fromJsonSchema(root);
+        return fromSample(root);
+    }
+
+    /** Builds a schema from sample records (object or array of objects) */
+    public static RecordSchema fromSample(String path) throws IOException {
+        return fromSample(readRoot(path));
+    }
+
+    /** Builds a schema from a JSON Schema document ("properties" of type "object") */
+    public static RecordSchema fromJsonSchema(String path) throws IOException {
+        JsonNode root = readRoot(path);
+        if (!isJsonSchema(root)) {
+            throw new IllegalArgumentException("❌ Not a JSON Schema with object properties: " + path);
+        }
+        return fromJsonSchema(root);
+    }
+
+    /** Flattened column names, in slot order */
+    public List<String> columns() {
+        return Collections.unmodifiableList(Arrays.asList(columns));
+    }
+
+    private static JsonNode readRoot(String path) throws IOException {
+        File file = new File(path);
+        if (!file.exists()) throw new IOException("File not found: " + path);
+        return JsonMappers.get().readTree(file);
+    }
+
+    private static boolean isJsonSchema(JsonNode root) {
+        return root.isObject() && "object".equals(root.path("type").asText())
+                && root.path("properties").isObject();
+    }
+
+    private static RecordSchema fromSample(JsonNode root) {
+        Node tree = new Node();
+        if (root.isArray()) {
+            for (JsonNode record : root) {
+                if (!record.isObject()) {
+                    throw new IllegalArgumentException("❌ Sample records must be JSON objects.");
+                }
+                mergeSample(tree, record, "");
+            }
+        } else if (root.isObject()) {
+            mergeSample(tree, root, "");
+        } else {
+            throw new IllegalArgumentException("❌ Invalid sample: root must be object or array.");
+        }
+        return compile(tree);
+    }
+
+    /** Adds the shape of one sample object to the tree; non-empty objects nest, everything else is a leaf */
+    private static void mergeSample(Node node, JsonNode object, String prefix) {
+        object.fields().forEachRemaining(e -> {
+            String key = prefix.isEmpty() ? e.getKey() : prefix + "." + e.getKey();
+            JsonNode value = e.getValue();
+            boolean nested = value.isObject();
+            Node child = node.children.get(e.getKey());
+            if (child == null) {
+                child = new Node();
+                child.slot = nested ? -1 : 0; // leaf marker, real slot assigned in compile()
+                node.children.put(e.getKey(), child);
+            } else if (child.isLeaf() == nested) {
+                throw new IllegalArgumentException("❌ Conflicting shapes in sample for field: " + key);
+            }
+            if (nested) mergeSample(child, value, key);
+        });
+    }
+
+    private static RecordSchema fromJsonSchema(JsonNode schema) {
+        Node tree = new Node();
+        mergeJsonSchema(tree, schema.path("properties"));
+        return compile(tree);
+    }
+
+    private static void mergeJsonSchema(Node node, JsonNode properties) {
+        properties.fields().forEachRemaining(e -> {
+            JsonNode definition = e.getValue();
+            Node child = new Node();
+            if ("object".equals(definition.path("type").asText()) && definition.path("properties").isObject()) {
+                mergeJsonSchema(child, definition.path("properties"));
+            } else {
+                child.slot = 0; // leaf marker, real slot assigned in compile()
+            }
+            node.children.put(e.getKey(), child);
+        });
+    }
+
+    /**
+     * Assigns slots depth-first in declaration order, so a record's fields appear in
+     * increasing slot order exactly when they follow the schema's order.
+     */
+    private static RecordSchema compile(Node tree) {
+        List<String> columns = new ArrayList<>();
+        assignSlots(tree, "", columns);
+        return new RecordSchema(tree, columns);
+    }
+
+    private static void assignSlots(Node node, String prefix, List<String> columns) {
+        for (Map.Entry<String, Node> e : node.children.entrySet()) {
+            String key = prefix.isEmpty() ? e.getKey() : prefix + "." + e.getKey();
+            Node child = e.getValue();
+            if (child.isLeaf()) {
+                child.slot = columns.size();
+                columns.add(key);
+            } else {
+                int first = columns.size();
+                assignSlots(child, key, columns);
+                if (columns.size() > first) child.firstSlot = first;
+            }
+        }
+    }
+
+    /**
+     * Binds the record the parser is positioned on (its START_OBJECT token).
+     *
+     * @return the flattened record, identical to the generic flattening, or null if the
+     *         record does not fit this schema (the parser is then left mid-record)
+     */
+    Map<String, String> bind(JsonParser parser, ObjectMapper mapper) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) return null;
+        String[] values = new String[columns.length];
+        int[] lastSlot = {-1};
+        if (!bindObject(parser, root, values, lastSlot, mapper)) return null;
+
+        Map<String, String> flat = new LinkedHashMap<>();
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) flat.put(columns[i], values[i]);
+        }
+        return flat;
+    }
+
+    private boolean bindObject(JsonParser parser, Node node, String[] values, int[] lastSlot,
+                               ObjectMapper mapper) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            Node child = node.children.get(parser.currentName());
+            JsonToken token = parser.nextToken();
+            if (child == null) return false;
+
+            if (!child.isLeaf()) {
+                if (token != JsonToken.START_OBJECT) return false;
+                // A duplicate object replaces the earlier one in the generic path instead of merging with it
+                if (child.firstSlot <= lastSlot[0]) return false;
+                if (!bindObject(parser, child, values, lastSlot, mapper)) return false;
+                continue;
+            }
+
+            // Out-of-order or duplicate fields would change column order: let the generic path decide
+            if (child.slot <= lastSlot[0]) return false;
+            lastSlot[0] = child.slot;
+
+            switch (token) {
+                case START_OBJECT:
+                    return false;
+                case START_ARRAY:
+                    values[child.slot] = mapper.writeValueAsString(mapper.readTree(parser));
+                    break;
+                case VALUE_NULL:
+                    values[child.slot] = "";
+                    break;
+                case VALUE_NUMBER_INT:
+                    values[child.slot] = parser.getNumberValue().toString();
+                    break;
+                case VALUE_NUMBER_FLOAT:
+                    // Same text as DoubleNode.asText() in the generic path
+                    values[child.slot] = String.valueOf(parser.getDoubleValue());
+                    break;
+                default:
+                    values[child.slot] = parser.getText();
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,322 @@
+package org.edu.university.converter;
+
+import java.io.*;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * RowSorter - External merge sort for flattened rows with a fixed memory budget.
+ *
+ * Rows are buffered until their estimated size reaches a share of the budget; each full
+ * buffer is then sorted and spilled to a temporary run file on a worker thread while the
+ * caller keeps filling the next buffer (parallel run generation). sorted() k-way merges
+ * the runs, in several passes if there are too many to open at once. If nothing was
+ * spilled, rows are sorted in memory and no file is written.
+ *
+ * Rows are ordered by the value of one column (numerically when both values are numbers,
+ * missing/empty first), ties broken by the row's sequence number, so the sort is stable.
+ * With no sort column, rows come back in sequence order. A sorter created with grouping()
+ * compares the raw text instead, so only identical values end up next to each other.
+ */
+public class RowSorter implements Closeable {
+
+    /** Maximum number of runs merged at once */
+    static final int MAX_FAN_IN = 64;
+
+    /** A flattened row plus its position in the input */
+    public static final class Row {
+        final long seq;
+        final Map<String, String> values;
+        final Object key;
+
+        Row(long seq, Map<String, String> values, Object key) {
+            this.seq = seq;
+            this.values = values;
+            this.key = key;
+        }
+
+        public long seq() { return seq; }
+
+        public Map<String, String> values() { return values; }
+    }
+
+    /** Current row of one run during a merge */
+    private static final class Head {
+        final Row row;
+        final DataInputStream in;
+
+        Head(Row row, DataInputStream in) {
+            this.row = row;
+            this.in = in;
+        }
+    }
+
+    /** Pull-style iterator over sorted rows; next() returns null once exhausted */
+    public interface RowIterator extends Closeable {
+        Row next() throws IOException;
+    }
+
+    private final String sortColumn;
+    private final boolean rawKeys;
+    private final long runBudget;
+    private final ExecutorService pool;
+    private final Semaphore inFlight;
+    private final Path tempDir;
+    private final Comparator<Row> order;
+
+    private List<Row> buffer = new ArrayList<>();
+    private long bufferBytes;
+    private final List<Future<Path>> spills = new ArrayList<>();
+    private int runCounter;
+
+    /**
+     * @param sortColumn        column to order by, or null to order by sequence number
+     * @param memoryBudgetBytes approximate heap available for buffered rows
+     * @param threads           number of threads sorting and spilling runs in parallel
+     */
+    public RowSorter(String sortColumn, long memoryBudgetBytes, int threads) throws IOException {
+        this(sortColumn, false, memoryBudgetBytes, threads);
+    }
+
+    /**
+     * Sorter that orders by the exact text of a column, for finding duplicates with sameKey():
+     * "7" and "007" are different values here, while the numeric order treats them as equal.
+     */
+    public static RowSorter grouping(String column, long memoryBudgetBytes, int threads) throws IOException {
+        return new RowSorter(column, true, memoryBudgetBytes, threads);
+    }
+
+    private RowSorter(String sortColumn, boolean rawKeys, long memoryBudgetBytes, int threads) throws IOException {
+        if (memoryBudgetBytes < 1) throw new IllegalArgumentException("memory budget must be > 0");
+        if (threads < 1) throw new IllegalArgumentException("threads must be >= 1");
+        this.sortColumn = sortColumn;
+        this.rawKeys = rawKeys;
+        // The filling buffer plus one buffer per worker must fit in the budget
+        this.runBudget = Math.max(1, memoryBudgetBytes / (threads + 1));
+        this.pool = Executors.newFixedThreadPool(threads);
+        this.inFlight = new Semaphore(threads);
+        this.tempDir = Files.createTempDirectory("json-csv-sort");
+        this.order = Comparator.<Row, Object>comparing(r -> r.key, RowSorter::compareKeys)
+                .thenComparingLong(r -> r.seq);
+    }
+
+    /** Adds a row; may block while all workers are busy spilling */
+    public void add(long seq, Map<String, String> values) throws IOException {
+        buffer.add(new Row(seq, values, keyOf(values)));
+        bufferBytes += estimateSize(values);
+        if (bufferBytes >= runBudget) spill();
+    }
+
+    /**
+     * Returns all added rows in order. Call once, after the last add().
+     */
+    public RowIterator sorted() throws IOException {
+        if (spills.isEmpty()) {
+            List<Row> rows = buffer;
+            buffer = new ArrayList<>();
+            rows.sort(order);
+            Iterator<Row> it = rows.iterator();
+            return new RowIterator() {
+                @Override public Row next() { return it.hasNext() ? it.next() : null; }
+                @Override public void close() { }
+            };
+        }
+
+        if (!buffer.isEmpty()) spill();
+        List<Path> runs = new ArrayList<>();
+        for (Future<Path> spill : spills) runs.add(await(spill));
+        spills.clear();
+
+        // Reduce the number of runs until they can all be merged at once
+        while (runs.size() > MAX_FAN_IN) {
+            List<Path> next = new ArrayList<>();
+            for (int i = 0; i < runs.size(); i += MAX_FAN_IN) {
+                List<Path> group = runs.subList(i, Math.min(runs.size(), i + MAX_FAN_IN));
+                Path merged = newRunFile();
+                try (RowIterator it = merge(group); DataOutputStream out = openRun(merged)) {
+                    for (Row row = it.next(); row != null; row = it.next()) writeRow(out, row);
+                }
+                for (Path p : group) Files.deleteIfExists(p);
+                next.add(merged);
+            }
+            runs = next;
+        }
+        return merge(runs);
+    }
+
+    @Override
+    public void close() throws IOException {
+        pool.shutdownNow();
+        try (var files = Files.list(tempDir)) {
+            for (Path p : (Iterable<Path>) files::iterator) Files.deleteIfExists(p);
+        }
+        Files.deleteIfExists(tempDir);
+    }
+
+    /** Hands the current buffer to a worker that sorts it and writes it as a run file */
+    private void spill() throws IOException {
+        List<Row> rows = buffer;
+        buffer = new ArrayList<>();
+        bufferBytes = 0;
+        Path run = newRunFile();
+        try {
+            inFlight.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Sort interrupted", e);
+        }
+        spills.add(pool.submit(() -> {
+            try {
+                rows.sort(order);
+                try (DataOutputStream out = openRun(run)) {
+                    for (Row row : rows) writeRow(out, row);
+                }
+                return run;
+            } finally {
+                inFlight.release();
+            }
+        }));
+    }
+
+    private Path newRunFile() {
+        return tempDir.resolve("run-" + (runCounter++) + ".bin");
+    }
+
+    /** K-way merge of run files */
+    private RowIterator merge(List<Path> runs) throws IOException {
+        List<DataInputStream> inputs = new ArrayList<>();
+        PriorityQueue<Head> heads = new PriorityQueue<>((a, b) -> order.compare(a.row, b.row));
+        try {
+            for (Path run : runs) {
+                DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(run)));
+                inputs.add(in);
+                Row first = readRow(in);
+                if (first != null) heads.add(new Head(first, in));
+            }
+        } catch (IOException e) {
+            for (DataInputStream in : inputs) in.close();
+            throw e;
+        }
+
+        return new RowIterator() {
+            @Override
+            public Row next() throws IOException {
+                Head head = heads.poll();
+                if (head == null) return null;
+                Row following = readRow(head.in);
+                if (following != null) heads.add(new Head(following, head.in));
+                return head.row;
+            }
+
+            @Override
+            public void close() throws IOException {
+                for (DataInputStream in : inputs) in.close();
+            }
+        };
+    }
+
+    private static DataOutputStream openRun(Path run) throws IOException {
+        return new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(run)));
+    }
+
+    // Run format per row: seq, entry count, then length-prefixed UTF-8 key/value pairs
+
+    private static void writeRow(DataOutputStream out, Row row) throws IOException {
+        out.writeLong(row.seq);
+        out.writeInt(row.values.size());
+        for (Map.Entry<String, String> e : row.values.entrySet()) {
+            writeString(out, e.getKey());
+            writeString(out, e.getValue());
+        }
+    }
+
+    private Row readRow(DataInputStream in) throws IOException {
+        long seq;
+        try {
+            seq = in.readLong();
+        } catch (EOFException end) {
+            return null;
+        }
+        int size = in.readInt();
+        Map<String, String> values = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            String k = readString(in);
+            values.put(k, readString(in));
+        }
+        return new Row(seq, values, keyOf(values));
+    }
+
+    private static void writeString(DataOutputStream out, String s) throws IOException {
+        byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /** Rough heap footprint of a flattened row */
+    private static long estimateSize(Map<String, String> values) {
+        long size = 96;
+        for (Map.Entry<String, String> e : values.entrySet()) {
+            size += 112 + 2L * (e.getKey().length() + e.getValue().length());
+        }
+        return size;
+    }
+
+    private Object keyOf(Map<String, String> values) {
+        if (sortColumn == null) return null;
+        String value = values.get(sortColumn);
+        if (rawKeys) return value == null || value.isEmpty() ? null : value;
+        return sortKey(value);
+    }
+
+    /** Sort key: null for missing/empty, BigDecimal for numbers, the text otherwise */
+    static Object sortKey(String value) {
+        if (value == null || value.isEmpty()) return null;
+        char c = value.charAt(0);
+        if ((c >= '0' && c <= '9') || c == '-' || c == '+' || c == '.') {
+            try {
+                return new BigDecimal(value);
+            } catch (NumberFormatException ignored) {
+                // not a number, compare as text
+            }
+        }
+        return value;
+    }
+
+    /** True if both rows have the column with the same value; meant for rows of a grouping() sorter */
+    static boolean sameKey(Row a, Row b) {
+        return a.key != null && a.key.equals(b.key);
+    }
+
+    /** Missing first, then numbers, then text */
+    private static int compareKeys(Object a, Object b) {
+        if (a == null || b == null) return a == null ? (b == null ? 0 : -1) : 1;
+        if (a instanceof BigDecimal x) {
+            return b instanceof BigDecimal y ? x.compareTo(y) : -1;
+        }
+        return b instanceof BigDecimal ? 1 : ((String) a).compareTo((String) b);
+    }
+
+    private static <T> T await(Future<T> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Sort interrupted", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException io) throw io;
+            if (cause instanceof RuntimeException re) throw re;
+            throw new IOException(cause.getMessage(), cause);
+        }
+    }
+}
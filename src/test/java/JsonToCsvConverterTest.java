@@ -5,7 +5,17 @@ import org.junit.jupiter.api.Test;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -40,4 +50,111 @@ public class JsonToCsvConverterTest {
         System.out.println("✅ Conversion successful! CSV generated at: " + file.getAbsolutePath());
     }
 
+    @Test
+    void testConvertSortedWithSpills() throws IOException {
+        // 300 records, ids repeat every 100 and years cycle, so both dedupe and sort matter
+        String inputPath = "target/sort-test.json";
+        try (FileWriter fw = new FileWriter(inputPath)) {
+            fw.write("[");
+            for (int i = 0; i < 300; i++) {
+                if (i > 0) fw.write(",");
+                fw.write("{ \"id\": " + (i % 100) + ", \"run\": " + i
+                        + ", \"publication\": { \"year\": " + (2000 + (i * 7) % 25) + " } }");
+            }
+            fw.write("]");
+        }
+
+        String outputPath = "target/sorted-test.csv";
+        Files.deleteIfExists(Path.of(outputPath));
+
+        // A tiny memory budget forces one run per few rows and a multi-pass merge
+        JsonToCsvConverter converter = new JsonToCsvConverter();
+        int rows = converter.convertSorted(inputPath, outputPath, ',', "publication.year", "id", 4_000);
+
+        List<String> lines = Files.readAllLines(Path.of(outputPath), StandardCharsets.UTF_8);
+        assertEquals(100, rows, "Debe quedar una fila por id");
+        assertEquals("\"id\",\"run\",\"publication.year\"", lines.get(0));
+
+        int previousYear = Integer.MIN_VALUE;
+        int previousRun = -1;
+        for (String line : lines.subList(1, lines.size())) {
+            String[] cells = line.replace("\"", "").split(",");
+            int run = Integer.parseInt(cells[1]);
+            int year = Integer.parseInt(cells[2]);
+            assertTrue(run < 100, "Debe conservarse la primera aparición de cada id");
+            assertTrue(year > previousYear || (year == previousYear && run > previousRun),
+                    "Filas ordenadas por año y, en empate, por orden de entrada");
+            previousYear = year;
+            previousRun = run;
+        }
+    }
+
+    @Test
+    void testDedupeComparesExactText() throws IOException {
+        // Numerically equal but textually different keys are distinct values
+        String inputPath = "target/dedupe-test.json";
+        try (FileWriter fw = new FileWriter(inputPath)) {
+            fw.write("""
+            [
+              { "code": "007", "n": 1 }, { "code": "7", "n": 2 }, { "code": "007", "n": 3 },
+              { "code": "1e3", "n": 4 }, { "code": "1000", "n": 5 }, { "code": "1.0", "n": 6 },
+              { "code": "1", "n": 7 }, { "n": 8 }, { "n": 9 }
+            ]
+            """);
+        }
+
+        String outputPath = "target/dedupe-test.csv";
+        Files.deleteIfExists(Path.of(outputPath));
+
+        int rows = new JsonToCsvConverter().convertSorted(inputPath, outputPath, ',', null, "code", 1 << 20);
+
+        List<String> lines = Files.readAllLines(Path.of(outputPath), StandardCharsets.UTF_8);
+        assertEquals(8, rows, "Solo debe eliminarse el segundo \"007\"");
+        assertEquals(List.of("\"code\",\"n\"", "\"007\",\"1\"", "\"7\",\"2\"", "\"1e3\",\"4\"",
+                "\"1000\",\"5\"", "\"1.0\",\"6\"", "\"1\",\"7\"", "\"\",\"8\"", "\"\",\"9\""), lines);
+    }
+
+    @Test
+    void testConvertAsyncConcurrentJobs() throws Exception {
+        String inputPath = "target/async-test.json";
+        try (FileWriter fw = new FileWriter(inputPath)) {
+            fw.write("""
+            [
+              { "id": 1, "author": "Beatriz Solórzano", "publication": { "title": "Data Integration", "year": 2023 } },
+              { "id": 2, "author": "Juan Pérez", "keywords": ["Scrum", "CSV"] }
+            ]
+            """);
+        }
+
+        // Reference output from the blocking path
+        String expectedPath = "target/async-expected.csv";
+        Files.deleteIfExists(Path.of(expectedPath));
+        new JsonToCsvConverter().convert(inputPath, expectedPath, ';');
+        byte[] expected = Files.readAllBytes(Path.of(expectedPath));
+
+        // More jobs than threads: they queue on the executors and complete independently
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        AtomicInteger ioThreads = new AtomicInteger();
+        ExecutorService ioExecutor = Executors.newFixedThreadPool(1, r -> {
+            ioThreads.incrementAndGet();
+            return new Thread(r, "async-test-io");
+        });
+        try {
+            List<CompletableFuture<Integer>> jobs = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                String outputPath = "target/async-out/job-" + i + ".csv";
+                Files.deleteIfExists(Path.of(outputPath));
+                jobs.add(new JsonToCsvConverter().convertAsync(inputPath, outputPath, ';', executor, ioExecutor, null));
+            }
+            for (int i = 0; i < jobs.size(); i++) {
+                assertEquals(2, jobs.get(i).get(), "Cada trabajo debe convertir 2 registros");
+                assertArrayEquals(expected, Files.readAllBytes(Path.of("target/async-out/job-" + i + ".csv")));
+            }
+            // All file I/O ran on the caller's single-thread pool, not on a JDK-managed one
+            assertEquals(1, ioThreads.get());
+        } finally {
+            executor.shutdown();
+            ioExecutor.shutdown();
+        }
+    }
 }
@@ -0,0 +1,232 @@
+package org.edu.university.converter;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Stress/soak suite: large, deeply nested and very wide inputs under a constrained heap.
+ *
+ * Opt-in only: excluded from the default build, run with
+ *   mvn test -Pstress
+ *   mvn test -Pstress -Dstress.records=100000000 -Dstress.xmx=512m   (soak)
+ *
+ * Sizes, limits and floors come from system properties set by the "stress" profile in pom.xml.
+ */
+@EnabledIfSystemProperty(named = "stress.records", matches = "\\d+")
+public class ConversionStressTest {
+
+    private static final Path DIR = Path.of("target", "stress");
+
+    private final long records = Long.getLong("stress.records", 1_000_000);
+    private final int depth = Integer.getInteger("stress.depth", 200);
+    private final int width = Integer.getInteger("stress.width", 20_000);
+    private final long minRecordsPerSecond = Long.getLong("stress.minRecordsPerSecond", 20_000);
+    private final long maxLiveHeapMb = Long.getLong("stress.maxLiveHeapMb", 96);
+
+    private HeapSampler heap;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Files.createDirectories(DIR);
+        System.gc();
+        heap = new HeapSampler();
+        heap.start();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        heap.interrupt();
+        try (var files = Files.list(DIR)) {
+            for (Path p : (Iterable<Path>) files::iterator) Files.deleteIfExists(p);
+        }
+    }
+
+    @Test
+    void testLargeInputThroughputAndHeap() throws IOException {
+        Path input = DIR.resolve("large.json");
+        writeRecords(input, records, i -> "{\"id\":" + i + ",\"author\":\"Author " + i
+                + "\",\"department\":\"Scientometrics\",\"publication\":{\"title\":\"Title " + i
+                + "\",\"year\":" + (2000 + i % 25) + ",\"journal\":\"Journal " + (i % 50)
+                + "\"},\"keywords\":[\"Java\",\"CSV\"],\"citations\":" + (i % 100) + "}");
+        Path output = DIR.resolve("large.csv");
+
+        long start = System.nanoTime();
+        int rows = new JsonToCsvConverter().convert(input.toString(), output.toString(), ',');
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        assertEquals(records, rows, "Todos los registros deben convertirse");
+        assertEquals(records + 1, countLines(output), "Cabecera + una línea por registro");
+        assertThroughput(records, seconds);
+        assertHeapBounded();
+    }
+
+    @Test
+    void testSortedDedupeWithinBudget() throws IOException {
+        long distinct = Math.max(1, records / 2);
+        Path input = DIR.resolve("sort.json");
+        writeRecords(input, records, i -> "{\"id\":" + (i % distinct) + ",\"publication\":{\"year\":"
+                + (2000 + (i * 7) % 25) + "},\"seq\":" + i + "}");
+        Path output = DIR.resolve("sort.csv");
+
+        long start = System.nanoTime();
+        int rows = new JsonToCsvConverter().convertSorted(input.toString(), output.toString(), ',',
+                "publication.year", "id", 16L * 1024 * 1024);
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        assertEquals(distinct, rows, "Una fila por id");
+        assertThroughput(records, seconds);
+        assertHeapBounded();
+    }
+
+    @Test
+    void testDeeplyNestedDocuments() throws Exception {
+        StringBuilder open = new StringBuilder();
+        StringBuilder close = new StringBuilder();
+        StringBuilder key = new StringBuilder();
+        for (int level = 0; level < depth; level++) {
+            open.append("{\"l").append(level).append("\":");
+            close.append('}');
+            key.append('l').append(level).append('.');
+        }
+        String prefix = open.toString();
+        String suffix = close.toString();
+        long count = Math.min(records, 10_000);
+        Path input = DIR.resolve("deep.json");
+        writeRecords(input, count, i -> "{\"id\":" + i + ",\"nested\":" + prefix + "{\"value\":" + i + "}" + suffix + "}");
+        Path output = DIR.resolve("deep.csv");
+
+        // Run on a deliberately small stack: recursion proportional to depth would overflow it
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        AtomicReference<Integer> rows = new AtomicReference<>();
+        Thread worker = new Thread(null, () -> {
+            try {
+                rows.set(new JsonToCsvConverter().convert(input.toString(), output.toString(), ','));
+            } catch (Throwable t) {
+                failure.set(t);
+            }
+        }, "deep-conversion", 256 * 1024);
+        worker.start();
+        worker.join();
+
+        if (failure.get() instanceof StackOverflowError) fail("StackOverflowError at depth " + depth);
+        assertNull(failure.get(), () -> "Conversion failed: " + failure.get());
+        assertEquals(count, (long) rows.get());
+        try (BufferedReader reader = Files.newBufferedReader(output, StandardCharsets.UTF_8)) {
+            assertEquals("\"id\",\"nested." + key + "value\"", reader.readLine());
+        }
+        assertHeapBounded();
+    }
+
+    @Test
+    void testVeryWideDocuments() throws IOException {
+        long count = Math.min(records, 200);
+        Path input = DIR.resolve("wide.json");
+        writeRecords(input, count, i -> {
+            StringBuilder sb = new StringBuilder("{");
+            for (int f = 0; f < width; f++) {
+                if (f > 0) sb.append(',');
+                sb.append("\"field").append(f).append("\":").append(i + f);
+            }
+            return sb.append('}').toString();
+        });
+        Path output = DIR.resolve("wide.csv");
+
+        int rows = new JsonToCsvConverter().convert(input.toString(), output.toString(), ',');
+
+        assertEquals(count, rows);
+        try (BufferedReader reader = Files.newBufferedReader(output, StandardCharsets.UTF_8)) {
+            assertEquals(width, reader.readLine().split(",").length, "Una columna por campo");
+        }
+        assertHeapBounded();
+    }
+
+    private interface RecordText {
+        String of(long i);
+    }
+
+    /** Streams a JSON array of generated records to disk */
+    private static void writeRecords(Path path, long count, RecordText record) throws IOException {
+        try (BufferedWriter out = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            out.write('[');
+            for (long i = 0; i < count; i++) {
+                if (i > 0) out.write(",\n");
+                out.write(record.of(i));
+            }
+            out.write(']');
+        }
+    }
+
+    private static long countLines(Path path) throws IOException {
+        try (var lines = Files.lines(path, StandardCharsets.UTF_8)) {
+            return lines.count();
+        }
+    }
+
+    private void assertThroughput(long count, double seconds) {
+        double rate = count / Math.max(seconds, 1e-9);
+        System.out.printf("Stress: %,d records in %.1f s (%,.0f records/s), live heap peak %d MB%n",
+                count, seconds, rate, heap.maxLiveBytes() / (1024 * 1024));
+        assertTrue(rate >= minRecordsPerSecond,
+                String.format("Throughput %.0f records/s below floor %d", rate, minRecordsPerSecond));
+    }
+
+    private void assertHeapBounded() {
+        long liveMb = heap.maxLiveBytes() / (1024 * 1024);
+        assertTrue(liveMb <= maxLiveHeapMb, "Live heap after GC reached " + liveMb + " MB (limit " + maxLiveHeapMb + " MB)");
+    }
+
+    /**
+     * Samples heap usage right after garbage collections (what survives a GC), which tracks
+     * retained data rather than garbage waiting to be collected.
+     */
+    private static final class HeapSampler extends Thread {
+        private volatile long maxLive;
+
+        HeapSampler() {
+            super("heap-sampler");
+            setDaemon(true);
+        }
+
+        long maxLiveBytes() {
+            sample();
+            return maxLive;
+        }
+
+        @Override
+        public void run() {
+            while (!isInterrupted()) {
+                sample();
+                try {
+                    Thread.sleep(10);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        }
+
+        private void sample() {
+            long live = 0;
+            for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+                MemoryUsage afterGc = pool.getCollectionUsage();
+                if (pool.getType() == MemoryType.HEAP && afterGc != null) live += afterGc.getUsed();
+            }
+            if (live > maxLive) maxLive = live;
+        }
+    }
+}
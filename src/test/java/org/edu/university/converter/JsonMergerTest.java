@@ -0,0 +1,69 @@
+package org.edu.university.converter;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class JsonMergerTest {
+    @Test
+    void testMergeUnifiesHeaders() throws IOException {
+        // Two inputs with different column sets
+        String firstPath = "target/merge-first.json";
+        String secondPath = "target/merge-second.json";
+        try (FileWriter fw = new FileWriter(firstPath)) {
+            fw.write("""
+            [
+              { "id": 1, "author": "Ana", "publication": { "year": 2023 } },
+              { "id": 2, "author": "Luis", "publication": { "year": 2024 } }
+            ]
+            """);
+        }
+        try (FileWriter fw = new FileWriter(secondPath)) {
+            fw.write("""
+            { "id": 3, "department": "Scientometrics" }
+            """);
+        }
+
+        String outputPath = "target/merged-test.csv";
+        Files.deleteIfExists(Path.of(outputPath));
+
+        // Queue capacity of 1 forces producers to block on the consumer
+        JsonMerger merger = new JsonMerger(2, 1);
+        int rows = merger.merge(List.of(firstPath, secondPath), outputPath, ',', "source_file");
+
+        List<String> lines = Files.readAllLines(Path.of(outputPath), StandardCharsets.UTF_8);
+
+        assertEquals(3, rows, "Debe combinar exactamente 3 registros");
+        assertEquals("\"source_file\",\"id\",\"author\",\"publication.year\",\"department\"", lines.get(0));
+        assertEquals("\"merge-first.json\",\"1\",\"Ana\",\"2023\",\"\"", lines.get(1));
+        assertEquals("\"merge-first.json\",\"2\",\"Luis\",\"2024\",\"\"", lines.get(2));
+        assertEquals("\"merge-second.json\",\"3\",\"\",\"\",\"Scientometrics\"", lines.get(3));
+    }
+
+    @Test
+    void testSourceColumnCollisionIsRejected() throws IOException {
+        String inputPath = "target/merge-collision.json";
+        try (FileWriter fw = new FileWriter(inputPath)) {
+            fw.write("""
+            [ { "id": 1, "source_file": "exported-from-crm" } ]
+            """);
+        }
+
+        String outputPath = "target/merged-collision.csv";
+        Files.deleteIfExists(Path.of(outputPath));
+
+        JsonMerger merger = new JsonMerger(1, 4);
+        assertThrows(IllegalArgumentException.class,
+                () -> merger.merge(List.of(inputPath), outputPath, ',', "source_file"));
+        assertFalse(Files.exists(Path.of(outputPath)), "No debe crearse el CSV");
+    }
+}
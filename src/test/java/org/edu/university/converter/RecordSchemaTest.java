@@ -0,0 +1,103 @@
+package org.edu.university.converter;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class RecordSchemaTest {
+
+    private static final String RECORDS = """
+    [
+      { "id": 1, "author": "Ana", "publication": { "title": "Data", "year": 2023, "score": 1.50 },
+        "keywords": ["Java", "CSV"], "citations": 15 },
+      { "id": 2, "author": null, "publication": { "year": 2024 }, "keywords": [], "citations": 1e3 },
+      { "id": 3, "author": "Luis", "extra": true },
+      { "author": "Out of order", "id": 4 },
+      { "id": 5, "publication": "not an object" },
+      { "id": 6, "author": { "name": "Nested where a value was expected" } },
+      { "id": 7, "publication": { "title": "A" }, "publication": { "year": 2 } },
+      "not a record"
+    ]
+    """;
+
+    @Test
+    void testSchemaFromSampleMatchesGenericPath() throws IOException {
+        // Schema built from the repository's sample feed shape
+        String samplePath = write("target/schema-sample.json", """
+        [ { "id": 1, "author": "A", "publication": { "title": "T", "year": 2023, "score": 1.0 },
+            "keywords": ["x"], "citations": 1 } ]
+        """);
+        String inputPath = write("target/schema-records.json", RECORDS);
+
+        RecordSchema schema = RecordSchema.load(samplePath);
+        assertEquals(List.of("id", "author", "publication.title", "publication.year", "publication.score",
+                "keywords", "citations"), schema.columns());
+
+        List<Map<String, String>> generic = new JsonReader().readAndFlatten(inputPath);
+        List<Map<String, String>> bound = new JsonReader(schema).readAndFlatten(inputPath);
+
+        // Same values and same key order, including the records that fell back
+        assertEquals(generic.size(), bound.size());
+        for (int i = 0; i < generic.size(); i++) {
+            assertEquals(List.copyOf(generic.get(i).entrySet()), List.copyOf(bound.get(i).entrySet()),
+                    "Registro " + i + " difiere del camino genérico");
+        }
+        assertEquals("1000.0", bound.get(1).get("citations"));
+        assertEquals("[\"Java\",\"CSV\"]", bound.get(0).get("keywords"));
+    }
+
+    @Test
+    void testSchemaFromJsonSchema() throws IOException {
+        String schemaPath = write("target/schema-definition.json", """
+        {
+          "$schema": "https://json-schema.org/draft/2020-12/schema",
+          "type": "object",
+          "properties": {
+            "id": { "type": "integer" },
+            "author": { "type": "string" },
+            "publication": {
+              "type": "object",
+              "properties": { "title": { "type": "string" }, "year": { "type": "integer" } }
+            },
+            "keywords": { "type": "array", "items": { "type": "string" } }
+          }
+        }
+        """);
+
+        RecordSchema schema = RecordSchema.load(schemaPath);
+        assertEquals(List.of("id", "author", "publication.title", "publication.year", "keywords"),
+                schema.columns());
+
+        String inputPath = write("target/schema-records-2.json", RECORDS);
+        assertEquals(new JsonReader().readAndFlatten(inputPath), new JsonReader(schema).readAndFlatten(inputPath));
+    }
+
+    @Test
+    void testUtf16InputFallsBackToGenericPath() throws IOException {
+        // Jackson reports no byte offsets for UTF-16, so mismatching records cannot be replayed
+        String samplePath = write("target/schema-sample-utf16.json", """
+        [ { "id": 1, "author": "A", "publication": { "title": "T", "year": 2023 } } ]
+        """);
+        Path inputPath = Path.of("target/schema-records-utf16.json");
+        Files.writeString(inputPath, RECORDS, StandardCharsets.UTF_16BE);
+
+        RecordSchema schema = RecordSchema.load(samplePath);
+        assertEquals(new JsonReader().readAndFlatten(inputPath.toString()),
+                new JsonReader(schema).readAndFlatten(inputPath.toString()));
+    }
+
+    private static String write(String path, String content) throws IOException {
+        try (FileWriter fw = new FileWriter(path)) {
+            fw.write(content);
+        }
+        return path;
+    }
+}
@@ -0,0 +1,109 @@
+package org.edu.university.converter;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * StartupBenchmark - Compares time-to-completion of the shaded JAR with and without the CDS archive.
+ *
+ * Not a unit test: it is run by the "startup" Maven profile after the archive is created.
+ * Each run launches a fresh JVM on a small input and measures until the process exits, which
+ * for small files is dominated by JVM startup and class loading. (CsvWriter2 only flushes on
+ * close, so the first row reaches disk at completion anyway.)
+ *
+ * Exits with status 1 unless the CDS median beats the default median by at least
+ * <minImprovementPercent>, so the build fails if the archive stops paying off.
+ *
+ * Usage: StartupBenchmark <jar> <archive.jsa> <input.json> <runs> <minImprovementPercent>
+ */
+public class StartupBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 5) {
+            System.err.println("Usage: StartupBenchmark <jar> <archive.jsa> <input.json> <runs> <minImprovementPercent>");
+            System.exit(2);
+        }
+        String jar = args[0];
+        String archive = args[1];
+        String input = args[2];
+        int runs = Integer.parseInt(args[3]);
+        double minImprovement = Double.parseDouble(args[4]);
+
+        if (!new File(archive).isFile()) {
+            System.err.println("❌ CDS archive not found: " + archive);
+            System.exit(1);
+        }
+
+        // One warm-up of each mode so the OS file cache is comparable
+        measure(jar, null, input);
+        measure(jar, archive, input);
+
+        long[] plain = new long[runs];
+        long[] shared = new long[runs];
+        for (int i = 0; i < runs; i++) {
+            // Alternate modes to spread out background noise
+            plain[i] = measure(jar, null, input);
+            shared[i] = measure(jar, archive, input);
+        }
+
+        long plainMedian = median(plain);
+        long sharedMedian = median(shared);
+        double improvement = 100.0 * (plainMedian - sharedMedian) / plainMedian;
+        System.out.println("Startup benchmark (time-to-completion, median of " + runs + " runs)");
+        System.out.println("  default JVM : " + plainMedian + " ms");
+        System.out.println("  with AppCDS : " + sharedMedian + " ms");
+        System.out.printf("  improvement : %.1f%% (required: %.1f%%)%n", improvement, minImprovement);
+
+        if (improvement < minImprovement) {
+            System.err.printf("❌ AppCDS median (%d ms) is not at least %.1f%% below the default median (%d ms)%n",
+                    sharedMedian, minImprovement, plainMedian);
+            System.exit(1);
+        }
+    }
+
+    /** Launches one conversion and returns milliseconds until the process exits */
+    private static long measure(String jar, String archive, String input) throws IOException, InterruptedException {
+        Path out = Files.createTempFile("startup-bench-", ".csv");
+        Files.delete(out); // CsvWriter2 requires a new file
+
+        List<String> cmd = new ArrayList<>();
+        cmd.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        if (archive != null) {
+            cmd.add("-XX:SharedArchiveFile=" + archive);
+            cmd.add("-Xshare:auto");
+        }
+        cmd.addAll(Arrays.asList("-jar", jar, "--input=" + input, "--output=" + out, "--no-prompt"));
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(cmd).redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD).start();
+        int exit = process.waitFor();
+        long end = System.nanoTime();
+
+        boolean converted = hasDataRow(out);
+        Files.deleteIfExists(out);
+        if (exit != 0 || !converted) {
+            throw new IOException("Conversion produced no rows (exit " + exit + ")");
+        }
+        return (end - start) / 1_000_000;
+    }
+
+    private static boolean hasDataRow(Path out) throws IOException {
+        if (!Files.exists(out)) return false;
+        String content = new String(Files.readAllBytes(out), StandardCharsets.UTF_8);
+        int firstLineEnd = content.indexOf('\n');
+        return firstLineEnd >= 0 && content.indexOf('\n', firstLineEnd + 1) >= 0;
+    }
+
+    private static long median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+}